@@ -1,18 +1,19 @@
 package src.abs;
 
 public enum SpotTypes {
-    COMPACT(2.0),
-    REGULAR(5.0),
-    HANDICAPPED(2.0), // Note: Special logic applies for card holders
-    RESERVED(10.0);
+    // Hourly rates in sen (RM 1.00 = 100 sen)
+    COMPACT(200),
+    REGULAR(500),
+    HANDICAPPED(200), // Note: Special logic applies for card holders
+    RESERVED(1000);
 
-    private final double baseRate;
+    private final long baseRateSen;
 
-    SpotTypes(double baseRate) {
-        this.baseRate = baseRate;
+    SpotTypes(long baseRateSen) {
+        this.baseRateSen = baseRateSen;
     }
 
-    public double getBaseRate() {
-        return baseRate;
+    public long getBaseRateSen() {
+        return baseRateSen;
     }
 }
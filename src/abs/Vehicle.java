@@ -1,13 +1,11 @@
 package src.abs;
 
-import src.cls.logic.Ticket;
-
 public abstract class Vehicle {
 
     // No getter and setter to reduce complexity
     protected String plate;
 
-    protected Ticket ticket;
+    // Ticket is looked up through the lot's OccupancyRegistry, not kept here
 
     Vehicle(String plate) {}
 }
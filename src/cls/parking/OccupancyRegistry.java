@@ -0,0 +1,63 @@
+package src.cls.parking;
+
+import src.abs.Vehicle;
+import src.cls.logic.Ticket;
+
+// Owns every parked Vehicle and its Ticket. A spot only keeps the int handle,
+// so occupancy is decided by the lot, never by the garbage collector.
+public class OccupancyRegistry {
+
+    public static final int NONE = -1;
+
+    private Vehicle[] vehicles = new Vehicle[64];
+    private Ticket[] tickets = new Ticket[64];
+
+    // Released handles, reused last-in first-out
+    private int[] free = new int[64];
+    private int freeCount;
+    private int nextHandle;
+
+    public int register(Vehicle vehicle, Ticket ticket) {
+        if (vehicle == null) throw new IllegalArgumentException("vehicle");
+        int handle;
+        if (freeCount > 0) {
+            handle = free[--freeCount];
+        } else {
+            handle = nextHandle++;
+            if (handle == vehicles.length) grow();
+        }
+        vehicles[handle] = vehicle;
+        tickets[handle] = ticket;
+        return handle;
+    }
+
+    public Vehicle vehicle(int handle) {
+        return handle == NONE ? null : vehicles[handle];
+    }
+
+    public Ticket ticket(int handle) {
+        return handle == NONE ? null : tickets[handle];
+    }
+
+    public void release(int handle) {
+        if (handle == NONE || vehicles[handle] == null) return;
+        vehicles[handle] = null;
+        tickets[handle] = null;
+        if (freeCount == free.length) {
+            int[] bigger = new int[free.length * 2];
+            System.arraycopy(free, 0, bigger, 0, freeCount);
+            free = bigger;
+        }
+        free[freeCount++] = handle;
+    }
+
+    private void grow() {
+        int size = vehicles.length * 2;
+        Vehicle[] v = new Vehicle[size];
+        Ticket[] t = new Ticket[size];
+        System.arraycopy(vehicles, 0, v, 0, vehicles.length);
+        System.arraycopy(tickets, 0, t, 0, tickets.length);
+        vehicles = v;
+        tickets = t;
+    }
+}
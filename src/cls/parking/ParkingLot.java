@@ -1,3 +1,35 @@
 package src.cls.parking;
 
-public class ParkingLot {}
+import src.abs.Vehicle;
+import src.cls.logic.Ticket;
+
+public class ParkingLot {
+
+    private final OccupancyRegistry registry = new OccupancyRegistry();
+
+    public void park(ParkingSpot spot, Vehicle vehicle, Ticket ticket) {
+        if (spot.status()) {
+            throw new IllegalStateException("Spot is already occupied");
+        }
+        int handle = registry.register(vehicle, ticket);
+        try {
+            spot.setVehicle(handle);
+        } catch (RuntimeException e) {
+            registry.release(handle);
+            throw e;
+        }
+    }
+
+    public void vacate(ParkingSpot spot) {
+        registry.release(spot.getVehicle());
+        spot.vacate();
+    }
+
+    public Vehicle vehicleAt(ParkingSpot spot) {
+        return registry.vehicle(spot.getVehicle());
+    }
+
+    public Ticket ticketAt(ParkingSpot spot) {
+        return registry.ticket(spot.getVehicle());
+    }
+}
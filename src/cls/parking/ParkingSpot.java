@@ -1,27 +1,43 @@
 package src.cls.parking;
 
-import java.lang.ref.WeakReference;
 import src.abs.*; // Uses all
 
 public class ParkingSpot {
 
-    WeakReference<Vehicle> vehicle = new WeakReference<Vehicle>(null);
+    // Handle into the lot's OccupancyRegistry, NONE when vacant
+    int vehicle = OccupancyRegistry.NONE;
     SpotTypes type;
 
-    public void setVehicle(WeakReference<Vehicle> vehicle) {
+    public ParkingSpot(SpotTypes type) {
+        if (type == null) throw new IllegalArgumentException("type");
+        this.type = type;
+    }
+
+    // Handles come from ParkingLot.park, which owns the registry
+    void setVehicle(int vehicle) {
         switch (type) {
-            case Compact:
+            case COMPACT:
                 break;
-            case Regular:
+            case REGULAR:
                 break;
-            case Handicapped:
+            case HANDICAPPED:
                 break;
-            case Reserved:
+            case RESERVED:
                 break;
         }
+        this.vehicle = vehicle;
+    }
+
+    public int getVehicle() {
+        return vehicle;
+    }
+
+    // Through ParkingLot.vacate, which releases the handle first
+    void vacate() {
+        this.vehicle = OccupancyRegistry.NONE;
     }
 
     public boolean status() {
-        return this.vehicle.get() != null;
+        return this.vehicle != OccupancyRegistry.NONE;
     }
 }
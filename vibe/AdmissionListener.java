@@ -0,0 +1,13 @@
+package vibe;
+
+// Notified by GateAdmission.tick() for each car it takes off a queue.
+interface AdmissionListener {
+    void onAdmitted(int gate, Ticket ticket);
+
+    void onRejected(
+        int gate,
+        String plate,
+        VehicleType type,
+        AdmissionSignal reason
+    );
+}
@@ -0,0 +1,9 @@
+package vibe;
+
+// Answer a gate gets back from GateAdmission.submit().
+enum AdmissionSignal {
+    QUEUED,
+    RETRY,
+    LOT_FULL,
+    REJECTED, // Plate already has an active ticket
+}
@@ -0,0 +1,152 @@
+package vibe;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// ==========================================
+// DEMAND FORECASTER / DYNAMIC PRICING
+// ==========================================
+// Rolling arrival and dwell statistics per (floor, spot type), updated in
+// O(1) per park/exit event with fixed memory (one cell per floor and type,
+// no event history kept).
+//
+// - Arrival rate: exponentially decayed count, window ARRIVAL_WINDOW_HOURS.
+// - Dwell time: exponentially weighted mean of completed stays.
+// - Forecast: treats each cell as an M/M/inf queue, so occupancy h hours
+//   ahead relaxes from the current count towards rate * dwell.
+// The forecast 1h ahead drives a rate multiplier. It is taken when a car
+// enters (before that car is counted) and kept on its ticket for the stay.
+
+class DemandForecaster {
+
+    private static final double ARRIVAL_WINDOW_HOURS = 1.0;
+    private static final double DWELL_ALPHA = 0.1;
+    private static final double DWELL_PRIOR_HOURS = 2.0;
+
+    // Surge pricing: no change up to 60% forecast utilisation, then linear
+    // up to 1.5x at a full cell. Multipliers are basis points (1.0x = 10000).
+    private static final double SURGE_FROM_UTILISATION = 0.6;
+    public static final long BASE_MULTIPLIER_BP = 10_000;
+    public static final long MAX_MULTIPLIER_BP = 15_000;
+    public static final double PRICING_HORIZON_HOURS = 1.0;
+
+    private static class Cell {
+
+        int capacity;
+        int occupied;
+        double arrivalRate; // arrivals per hour as of lastArrival
+        double lastArrival; // epoch hours
+        double meanDwell = DWELL_PRIOR_HOURS;
+    }
+
+    private static final int TYPES = SpotType.values().length;
+
+    // Indexed by floor number, then SpotType ordinal
+    private Cell[][] cells = new Cell[0][];
+
+    public void addCapacity(ParkingSpot spot) {
+        cell(spot).capacity++;
+    }
+
+    // Seeds an already-parked spot without counting it as a new arrival
+    public void addOccupied(ParkingSpot spot) {
+        cell(spot).occupied++;
+    }
+
+    public void onPark(ParkingSpot spot, LocalDateTime time) {
+        Cell c = cell(spot);
+        double now = toHours(time);
+        c.arrivalRate =
+            decayedRate(c, now) + 1.0 / ARRIVAL_WINDOW_HOURS;
+        c.lastArrival = Math.max(c.lastArrival, now);
+        c.occupied++;
+    }
+
+    public void onExit(
+        ParkingSpot spot,
+        LocalDateTime entryTime,
+        LocalDateTime exitTime
+    ) {
+        Cell c = cell(spot);
+        double dwell = Math.max(toHours(exitTime) - toHours(entryTime), 0.0);
+        c.meanDwell += DWELL_ALPHA * (dwell - c.meanDwell);
+        if (c.occupied > 0) c.occupied--;
+    }
+
+    // Expected occupied spots of this type on the floor, hoursAhead from now
+    public double forecast(
+        int floorNumber,
+        SpotType type,
+        double hoursAhead,
+        LocalDateTime now
+    ) {
+        if (floorNumber >= cells.length || cells[floorNumber] == null) {
+            return 0.0;
+        }
+        Cell c = cells[floorNumber][type.ordinal()];
+        if (c == null) return 0.0;
+        double rate = decayedRate(c, toHours(now));
+        double dwell = Math.max(c.meanDwell, 1.0 / 60);
+        double stay = Math.exp(-hoursAhead / dwell);
+        double expected = c.occupied * stay + rate * dwell * (1 - stay);
+        return Math.min(expected, c.capacity);
+    }
+
+    public double forecastFloor(
+        int floorNumber,
+        double hoursAhead,
+        LocalDateTime now
+    ) {
+        double total = 0.0;
+        for (SpotType type : SpotType.values()) {
+            total += forecast(floorNumber, type, hoursAhead, now);
+        }
+        return total;
+    }
+
+    public long rateMultiplierBp(ParkingSpot spot, LocalDateTime now) {
+        Cell c = cell(spot);
+        if (c.capacity == 0) return BASE_MULTIPLIER_BP;
+        double utilisation =
+            forecast(
+                spot.getFloorNumber(),
+                spot.getType(),
+                PRICING_HORIZON_HOURS,
+                now
+            ) /
+            c.capacity;
+        if (utilisation <= SURGE_FROM_UTILISATION) return BASE_MULTIPLIER_BP;
+        double t =
+            (Math.min(utilisation, 1.0) - SURGE_FROM_UTILISATION) /
+            (1.0 - SURGE_FROM_UTILISATION);
+        return (
+            BASE_MULTIPLIER_BP +
+            Math.round(t * (MAX_MULTIPLIER_BP - BASE_MULTIPLIER_BP))
+        );
+    }
+
+    private Cell cell(ParkingSpot spot) {
+        int floor = spot.getFloorNumber();
+        if (floor >= cells.length) {
+            Cell[][] grown = new Cell[floor + 1][];
+            System.arraycopy(cells, 0, grown, 0, cells.length);
+            cells = grown;
+        }
+        if (cells[floor] == null) cells[floor] = new Cell[TYPES];
+        Cell c = cells[floor][spot.getType().ordinal()];
+        if (c == null) {
+            c = new Cell();
+            cells[floor][spot.getType().ordinal()] = c;
+        }
+        return c;
+    }
+
+    private static double decayedRate(Cell c, double now) {
+        double elapsed = Math.max(now - c.lastArrival, 0.0);
+        return c.arrivalRate * Math.exp(-elapsed / ARRIVAL_WINDOW_HOURS);
+    }
+
+    private static double toHours(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 3600.0;
+    }
+}
@@ -0,0 +1,19 @@
+package vibe;
+
+class ExitBill {
+
+    // Money fields are in sen
+    public Ticket ticket;
+    public long hours;
+    public long fee;
+    public long fine;
+    public long total;
+
+    public ExitBill(Ticket t, long h, long f, long fine) {
+        this.ticket = t;
+        this.hours = h;
+        this.fee = f;
+        this.fine = fine;
+        this.total = f + fine;
+    }
+}
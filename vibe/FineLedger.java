@@ -0,0 +1,105 @@
+package vibe;
+
+// ==========================================
+// FINE LEDGER
+// ==========================================
+// Plate -> outstanding fine (sen). Open addressing with linear probing over
+// parallel arrays, so amounts stay primitive longs (no boxed Double/Long per
+// entry and no boxing on every merge).
+
+class FineLedger {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] plates;
+    private long[] amounts;
+    private int size;
+
+    public FineLedger() {
+        plates = new String[MIN_CAPACITY];
+        amounts = new long[MIN_CAPACITY];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Outstanding fine for the plate, 0 if none
+    public long get(String plate) {
+        int i = indexOf(plate);
+        return plates[i] != null ? amounts[i] : 0L;
+    }
+
+    // Adds to the plate's outstanding fine and returns the new total
+    public long add(String plate, long sen) {
+        int i = indexOf(plate);
+        if (plates[i] == null) {
+            plates[i] = plate;
+            amounts[i] = sen;
+            if (++size * 4 > plates.length * 3) resize(plates.length * 2);
+            return sen;
+        }
+        return amounts[i] += sen;
+    }
+
+    // Clears the plate's fine and returns what was outstanding
+    public long remove(String plate) {
+        int i = indexOf(plate);
+        if (plates[i] == null) return 0L;
+        long removed = amounts[i];
+        int mask = plates.length - 1;
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int hole = i;
+        for (int j = (i + 1) & mask; plates[j] != null; j = (j + 1) & mask) {
+            int home = slot(plates[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                plates[hole] = plates[j];
+                amounts[hole] = amounts[j];
+                hole = j;
+            }
+        }
+        plates[hole] = null;
+        amounts[hole] = 0L;
+        size--;
+        return removed;
+    }
+
+    public interface Visitor {
+        void visit(String plate, long sen);
+    }
+
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < plates.length; i++) {
+            if (plates[i] != null) visitor.visit(plates[i], amounts[i]);
+        }
+    }
+
+    private int slot(String plate) {
+        int h = plate.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (plates.length - 1);
+    }
+
+    // Slot holding the plate, or the empty slot where it would go
+    private int indexOf(String plate) {
+        int mask = plates.length - 1;
+        int i = slot(plate);
+        while (plates[i] != null && !plates[i].equals(plate)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void resize(int capacity) {
+        String[] oldPlates = plates;
+        long[] oldAmounts = amounts;
+        plates = new String[capacity];
+        amounts = new long[capacity];
+        for (int i = 0; i < oldPlates.length; i++) {
+            if (oldPlates[i] != null) {
+                int j = indexOf(oldPlates[i]);
+                plates[j] = oldPlates[i];
+                amounts[j] = oldAmounts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package vibe;
+
+enum FineScheme {
+    FIXED,
+    PROGRESSIVE,
+    HOURLY,
+}
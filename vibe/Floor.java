@@ -0,0 +1,34 @@
+package vibe;
+
+import java.util.*;
+
+class Floor {
+
+    private int floorNumber;
+    private List<ParkingSpot> spots;
+
+    public Floor(int number) {
+        this.floorNumber = number;
+        this.spots = new ArrayList<>();
+    }
+
+    public void addSpots(SpotType type, int count) {
+        int start = spots.size() + 1;
+        for (int i = 0; i < count; i++) {
+            String id = "F" + floorNumber + "-S" + (start + i);
+            spots.add(new ParkingSpot(id, type, floorNumber));
+        }
+    }
+
+    public void addSpot(ParkingSpot spot) {
+        spots.add(spot);
+    }
+
+    public List<ParkingSpot> getSpots() {
+        return spots;
+    }
+
+    public int getFloorNumber() {
+        return floorNumber;
+    }
+}
@@ -0,0 +1,181 @@
+package vibe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// ==========================================
+// FLOOR SCAN (fork/join)
+// ==========================================
+// Runs a per-floor job over every floor of the lot. Floors are split
+// recursively across a dedicated ForkJoinPool until a range holds at most
+// 'threshold' spots; lots at or under the threshold run inline on the
+// caller's thread. Each floor writes its result into its own slot, so the
+// merged result is always in floor order regardless of scheduling.
+//
+// Tuning (system properties):
+//   parking.scan.threshold    spots per task before splitting (default
+//                             20000, see FloorScanBench for the crossover)
+//   parking.scan.parallelism  pool size (default: available processors)
+
+class FloorScan {
+
+    public static final int DEFAULT_THRESHOLD = Integer.getInteger(
+        "parking.scan.threshold",
+        20_000
+    );
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+        Integer.getInteger(
+            "parking.scan.parallelism",
+            Runtime.getRuntime().availableProcessors()
+        )
+    );
+
+    // Occupancy of one floor
+    public static class FloorReport {
+
+        public final int floorNumber;
+        public final int totalSpots;
+        public final int occupied;
+        public final int[] freeByType; // SpotType ordinal -> free spots
+
+        FloorReport(Floor floor) {
+            int busy = 0;
+            int[] free = new int[SpotType.values().length];
+            for (ParkingSpot s : floor.getSpots()) {
+                if (s.isOccupied()) busy++;
+                else free[s.getType().ordinal()]++;
+            }
+            this.floorNumber = floor.getFloorNumber();
+            this.totalSpots = floor.getSpots().size();
+            this.occupied = busy;
+            this.freeByType = free;
+        }
+    }
+
+    private FloorScan() {}
+
+    public static List<ParkingSpot> findSpots(
+        List<Floor> floors,
+        Predicate<ParkingSpot> filter,
+        int threshold
+    ) {
+        List<List<ParkingSpot>> perFloor = mapFloors(
+            floors,
+            f -> {
+                List<ParkingSpot> found = new ArrayList<>();
+                for (ParkingSpot s : f.getSpots()) {
+                    if (filter.test(s)) found.add(s);
+                }
+                return found;
+            },
+            threshold
+        );
+        int size = 0;
+        for (List<ParkingSpot> l : perFloor) size += l.size();
+        List<ParkingSpot> merged = new ArrayList<>(size);
+        for (List<ParkingSpot> l : perFloor) merged.addAll(l);
+        return merged;
+    }
+
+    public static List<FloorReport> report(List<Floor> floors, int threshold) {
+        return mapFloors(floors, FloorReport::new, threshold);
+    }
+
+    // Result i belongs to floors.get(i)
+    public static <R> List<R> mapFloors(
+        List<Floor> floors,
+        Function<Floor, R> job,
+        int threshold
+    ) {
+        int n = floors.size();
+        // Prefix sums of spot counts, so a range's size is O(1)
+        long[] spotsBefore = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            int size = floors.get(i).getSpots().size();
+            spotsBefore[i + 1] = spotsBefore[i] + size;
+        }
+
+        Object[] results = new Object[n];
+        FloorTask<R> task = new FloorTask<>(
+            floors,
+            job,
+            threshold,
+            spotsBefore,
+            results,
+            0,
+            n
+        );
+        if (spotsBefore[n] <= threshold || n < 2) {
+            task.compute();
+        } else {
+            POOL.invoke(task);
+        }
+
+        List<R> out = new ArrayList<>(n);
+        for (Object r : results) {
+            @SuppressWarnings("unchecked")
+            R typed = (R) r;
+            out.add(typed);
+        }
+        return out;
+    }
+
+    @SuppressWarnings("serial") // Never serialized
+    private static class FloorTask<R> extends RecursiveAction {
+
+        private final List<Floor> floors;
+        private final Function<Floor, R> job;
+        private final int threshold;
+        private final long[] spotsBefore;
+        private final Object[] results;
+        private final int lo, hi;
+
+        FloorTask(
+            List<Floor> floors,
+            Function<Floor, R> job,
+            int threshold,
+            long[] spotsBefore,
+            Object[] results,
+            int lo,
+            int hi
+        ) {
+            this.floors = floors;
+            this.job = job;
+            this.threshold = threshold;
+            this.spotsBefore = spotsBefore;
+            this.results = results;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            long spots = spotsBefore[hi] - spotsBefore[lo];
+            if (hi - lo == 1 || spots <= threshold) {
+                for (int i = lo; i < hi; i++) {
+                    results[i] = job.apply(floors.get(i));
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(split(lo, mid), split(mid, hi));
+        }
+
+        private FloorTask<R> split(int from, int to) {
+            return new FloorTask<>(
+                floors,
+                job,
+                threshold,
+                spotsBefore,
+                results,
+                from,
+                to
+            );
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package vibe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// ==========================================
+// FLOOR SCAN BENCHMARK
+// ==========================================
+// Times FloorScan sequential vs fork/join on synthetic lots of growing size
+// and prints where parallel starts to win. Use the result to set
+// -Dparking.scan.threshold on the target machine.
+//
+//   javac -d out vibe/*.java && java -cp out vibe.FloorScanBench
+
+public class FloorScanBench {
+
+    private static final int FLOORS = 16;
+    private static final int WARMUP = 200;
+    private static final int RUNS = 500;
+
+    public static void main(String[] args) {
+        System.out.println(
+            "cores=" + Runtime.getRuntime().availableProcessors()
+        );
+        System.out.println("spots       seq(us)   par(us)   speedup");
+
+        long crossover = -1;
+        for (int perFloor = 16; perFloor <= 65_536; perFloor *= 4) {
+            List<Floor> floors = buildLot(FLOORS, perFloor);
+            double seq = time(floors, Integer.MAX_VALUE);
+            double par = time(floors, 0);
+            long spots = (long) FLOORS * perFloor;
+            System.out.printf(
+                "%-10d %9.1f %9.1f %8.2fx%n",
+                spots,
+                seq,
+                par,
+                seq / par
+            );
+            if (crossover < 0 && par < seq) crossover = spots;
+        }
+        System.out.println(
+            crossover < 0
+                ? "parallel never faster on this machine"
+                : "crossover at ~" + crossover + " spots"
+        );
+    }
+
+    private static List<Floor> buildLot(int floorCount, int perFloor) {
+        List<Floor> floors = new ArrayList<>();
+        for (int i = 1; i <= floorCount; i++) {
+            Floor f = new Floor(i);
+            f.addSpots(SpotType.COMPACT, perFloor / 4);
+            f.addSpots(SpotType.REGULAR, perFloor / 2);
+            f.addSpots(SpotType.HANDICAPPED, perFloor / 8);
+            f.addSpots(SpotType.RESERVED, perFloor / 8);
+            // Park every third spot so the scans have work to skip
+            List<ParkingSpot> spots = f.getSpots();
+            for (int s = 0; s < spots.size(); s += 3) {
+                spots.get(s).park(new Vehicle("B" + s, VehicleType.CAR));
+            }
+            floors.add(f);
+        }
+        return floors;
+    }
+
+    // Mean microseconds per search + report pair
+    private static double time(List<Floor> floors, int threshold) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += run(floors, threshold);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) sink += run(floors, threshold);
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) System.out.print(""); // Keep results live
+        return elapsed / 1_000.0 / RUNS;
+    }
+
+    private static long run(List<Floor> floors, int threshold) {
+        List<ParkingSpot> free = FloorScan.findSpots(
+            floors,
+            s -> !s.isOccupied() && s.getType() == SpotType.REGULAR,
+            threshold
+        );
+        List<FloorScan.FloorReport> report = FloorScan.report(
+            floors,
+            threshold
+        );
+        return free.size() + report.get(0).occupied;
+    }
+}
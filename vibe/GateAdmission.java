@@ -0,0 +1,229 @@
+package vibe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// ==========================================
+// GATE ADMISSION CONTROL
+// ==========================================
+// Sits in front of ParkingLotManager during arrival surges. Gates never call
+// parkVehicle directly; they submit into their own bounded queue and get an
+// immediate signal back:
+//   QUEUED   - accepted, a spot will be assigned on a coming tick
+//   RETRY    - this gate's queue is full, ask the driver to wait
+//   LOT_FULL - every compatible free spot is already reserved by a queued car
+// Each queued car reserves one free spot of a specific SpotType, so the
+// shared pools (CAR and MOTORCYCLE both use COMPACT, HANDICAPPED_VEHICLE
+// uses all of them) are never promised twice.
+// tick() then assigns spots in batches, taking one car per gate in turn
+// (starting gate rotates every tick), so a busy gate can't starve the
+// others. A queued car waits at most gates * queueCapacity / batchSize ticks.
+//
+// submit() is thread-safe. tick() must run on the thread that owns the
+// manager (the EDT in ParkingSystemMain), like every other manager call.
+
+class GateAdmission {
+
+    private static class Request {
+
+        final int gate;
+        final String plate;
+        final VehicleType type;
+        final SpotType reserved;
+
+        Request(int gate, String plate, VehicleType type, SpotType reserved) {
+            this.gate = gate;
+            this.plate = plate;
+            this.type = type;
+            this.reserved = reserved;
+        }
+    }
+
+    private static final SpotType[] SPOT_TYPES = SpotType.values();
+
+    // Compatible spot types per VehicleType ordinal, cheapest first, then
+    // the ones fewest vehicle types can use (keeps shared pools free)
+    private static final SpotType[][] PREFERENCES = buildPreferences();
+
+    private final ParkingLotManager manager;
+    private final ArrayBlockingQueue<Request>[] queues;
+    private final int batchSize;
+    // Spots reserved by queued cars, per SpotType ordinal
+    private final AtomicIntegerArray reservedByType;
+    private final ArrayDeque<ParkingSpot>[] freeSpots;
+    private AdmissionListener listener;
+    private int nextGate;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public GateAdmission(
+        ParkingLotManager manager,
+        int gates,
+        int queueCapacity,
+        int batchSize
+    ) {
+        if (gates < 1 || queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException(
+                "gates, queueCapacity and batchSize must be positive"
+            );
+        }
+        this.manager = manager;
+        this.batchSize = batchSize;
+        this.queues = new ArrayBlockingQueue[gates];
+        for (int g = 0; g < gates; g++) {
+            queues[g] = new ArrayBlockingQueue<>(queueCapacity);
+        }
+        this.reservedByType = new AtomicIntegerArray(SPOT_TYPES.length);
+        this.freeSpots = new ArrayDeque[SPOT_TYPES.length];
+        for (int i = 0; i < SPOT_TYPES.length; i++) {
+            freeSpots[i] = new ArrayDeque<>();
+        }
+    }
+
+    public void setListener(AdmissionListener listener) {
+        this.listener = listener;
+    }
+
+    public int getGateCount() {
+        return queues.length;
+    }
+
+    public int getQueueLength(int gate) {
+        return queues[gate].size();
+    }
+
+    public AdmissionSignal submit(int gate, String plate, VehicleType type) {
+        SpotType reserved = reserve(type);
+        if (reserved == null) return AdmissionSignal.LOT_FULL;
+        if (!queues[gate].offer(new Request(gate, plate, type, reserved))) {
+            reservedByType.decrementAndGet(reserved.ordinal());
+            return AdmissionSignal.RETRY;
+        }
+        return AdmissionSignal.QUEUED;
+    }
+
+    // Backpressure from the live free counts: claims one free, unreserved
+    // spot type for this vehicle, or null if there is none
+    private SpotType reserve(VehicleType type) {
+        for (SpotType sType : PREFERENCES[type.ordinal()]) {
+            int i = sType.ordinal();
+            while (true) {
+                int reserved = reservedByType.get(i);
+                if (manager.getFreeSpotCount(sType) - reserved <= 0) break;
+                if (reservedByType.compareAndSet(i, reserved, reserved + 1)) {
+                    return sType;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Assigns spots to up to batchSize queued cars
+    public void tick() {
+        if (!hasQueued()) return;
+        collectFreeSpots();
+
+        int gates = queues.length;
+        int start = nextGate;
+        nextGate = (nextGate + 1) % gates;
+
+        int assigned = 0;
+        boolean progress = true;
+        while (assigned < batchSize && progress) {
+            progress = false;
+            for (int i = 0; i < gates && assigned < batchSize; i++) {
+                Request r = queues[(start + i) % gates].poll();
+                if (r == null) continue;
+                progress = true;
+                assigned++;
+                admit(r);
+            }
+        }
+    }
+
+    private void admit(Request r) {
+        ParkingSpot spot = takeSpot(r);
+        Ticket ticket = spot == null
+            ? null
+            : manager.parkVehicle(r.plate, r.type, spot.getId());
+        // Released only now, after the free count has dropped, so gates
+        // never see the spot as both free and unreserved
+        reservedByType.decrementAndGet(r.reserved.ordinal());
+        if (spot == null) {
+            notifyRejected(r, AdmissionSignal.LOT_FULL);
+        } else if (ticket == null) {
+            freeSpots[spot.getType().ordinal()].addFirst(spot);
+            notifyRejected(r, AdmissionSignal.REJECTED);
+        } else if (listener != null) {
+            listener.onAdmitted(r.gate, ticket);
+        }
+    }
+
+    private void notifyRejected(Request r, AdmissionSignal reason) {
+        if (listener != null) {
+            listener.onRejected(r.gate, r.plate, r.type, reason);
+        }
+    }
+
+    private boolean hasQueued() {
+        for (ArrayBlockingQueue<Request> q : queues) {
+            if (!q.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    // One pass over the lot per tick instead of one findAvailableSpots
+    // scan per car
+    private void collectFreeSpots() {
+        for (ArrayDeque<ParkingSpot> d : freeSpots) d.clear();
+        for (Floor f : manager.getFloors()) {
+            for (ParkingSpot s : f.getSpots()) {
+                if (!s.isOccupied()) freeSpots[s.getType().ordinal()].add(s);
+            }
+        }
+    }
+
+    // The reserved pool first, then any other compatible one (a spot may
+    // have been taken outside the gates, e.g. manual parking)
+    private ParkingSpot takeSpot(Request r) {
+        ParkingSpot s = freeSpots[r.reserved.ordinal()].poll();
+        if (s != null) return s;
+        for (SpotType sType : PREFERENCES[r.type.ordinal()]) {
+            s = freeSpots[sType.ordinal()].poll();
+            if (s != null) return s;
+        }
+        return null;
+    }
+
+    private static SpotType[][] buildPreferences() {
+        VehicleType[] vTypes = VehicleType.values();
+        SpotType[][] prefs = new SpotType[vTypes.length][];
+        for (VehicleType vType : vTypes) {
+            List<SpotType> compatible = new ArrayList<>();
+            for (SpotType sType : SPOT_TYPES) {
+                if (ParkingLotManager.isTypeCompatible(vType, sType)) {
+                    compatible.add(sType);
+                }
+            }
+            compatible.sort(
+                Comparator
+                    .comparingLong(ParkingSpot::rateFor)
+                    .thenComparingInt(GateAdmission::usableBy)
+            );
+            prefs[vType.ordinal()] = compatible.toArray(new SpotType[0]);
+        }
+        return prefs;
+    }
+
+    // How many vehicle types may use this spot type
+    private static int usableBy(SpotType sType) {
+        int n = 0;
+        for (VehicleType vType : VehicleType.values()) {
+            if (ParkingLotManager.isTypeCompatible(vType, sType)) n++;
+        }
+        return n;
+    }
+}
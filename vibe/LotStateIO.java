@@ -0,0 +1,621 @@
+package vibe;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// ==========================================
+// LOT STATE IMPORT / EXPORT
+// ==========================================
+// Moves spots, active tickets, fines and revenue between instances.
+//
+// Binary layout (big-endian), streamed through a FileChannel:
+//   int magic "PKLT", short version, long exportedAt
+//   section := byte tag ('S' spots, 'T' tickets, 'F' fines),
+//              block*, int 0
+//   block   := int rows, then one column after another for those rows
+//   'R' long revenue, 'E' end
+// Strings are u16 length + UTF-8 bytes, times are epoch seconds, money is
+// sen, rate multipliers are basis points. Blocks hold at most BLOCK_ROWS
+// rows, so neither side ever holds more than one block of rows in memory.
+//
+// CSV (one record per line, first field is the record kind):
+//   EXPORTED,yyyy-MM-ddTHH:mm:ss   (first line)
+//   SPOT,id,floor,type
+//   TICKET,ticketId,plate,spotId,vehicleType,yyyy-MM-ddTHH:mm:ss,rateBp
+//   FINE,plate,amount       REVENUE,amount       (amounts in RM)
+//
+// Import builds a fresh, empty manager row by row (indexes included, one
+// pass) and swaps it into the live one only after the whole file has been
+// read. A failed import leaves the live lot untouched.
+//
+// Export sweeps overstays up to exportedAt first, so the fines in the file
+// cover every checkpoint before it. Imported tickets resume from there and
+// the sweep right after the swap charges whatever passed in between.
+
+class LotStateIO {
+
+    private static final int MAGIC = 0x504B4C54; // "PKLT"
+    private static final short VERSION = 1;
+    private static final int BLOCK_ROWS = 4096;
+    private static final int BUFFER_BYTES = 1 << 17;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private static final byte SPOTS = 'S';
+    private static final byte TICKETS = 'T';
+    private static final byte FINES = 'F';
+    private static final byte REVENUE = 'R';
+    private static final byte END = 'E';
+
+    private static final SpotType[] SPOT_TYPES = SpotType.values();
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    public static class ImportSummary {
+
+        public int spots;
+        public int tickets;
+        public int skippedTickets; // Unknown / taken spot or duplicate plate
+        public int fines;
+
+        @Override
+        public String toString() {
+            return (
+                spots +
+                " spots, " +
+                tickets +
+                " tickets (" +
+                skippedTickets +
+                " skipped), " +
+                fines +
+                " fines"
+            );
+        }
+    }
+
+    private LotStateIO() {}
+
+    // ------------------------------------------
+    // Binary
+    // ------------------------------------------
+
+    public static void exportBinary(ParkingLotManager manager, Path file)
+        throws IOException {
+        try (
+            FileChannel ch = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            LocalDateTime exportedAt = sweepForExport(manager);
+            Out out = new Out(ch);
+            out.ensure(14);
+            out.buf.putInt(MAGIC);
+            out.buf.putShort(VERSION);
+            out.buf.putLong(exportedAt.toEpochSecond(ZoneOffset.UTC));
+
+            // Spots
+            out.putByte(SPOTS);
+            ParkingSpot[] spots = new ParkingSpot[BLOCK_ROWS];
+            int n = 0;
+            for (Floor f : manager.getFloors()) {
+                for (ParkingSpot s : f.getSpots()) {
+                    spots[n++] = s;
+                    if (n == BLOCK_ROWS) {
+                        writeSpotBlock(out, spots, n);
+                        n = 0;
+                    }
+                }
+            }
+            if (n > 0) writeSpotBlock(out, spots, n);
+            out.putInt(0);
+
+            // Tickets
+            out.putByte(TICKETS);
+            Ticket[] tickets = new Ticket[BLOCK_ROWS];
+            VehicleType[] vTypes = new VehicleType[BLOCK_ROWS];
+            n = 0;
+            for (Ticket t : manager.getActiveTickets()) {
+                Vehicle v = manager.getParkedVehicle(t.getSpotId());
+                vTypes[n] = v != null ? v.getType() : VehicleType.CAR;
+                tickets[n++] = t;
+                if (n == BLOCK_ROWS) {
+                    writeTicketBlock(out, tickets, vTypes, n);
+                    n = 0;
+                }
+            }
+            if (n > 0) writeTicketBlock(out, tickets, vTypes, n);
+            out.putInt(0);
+
+            // Fines
+            out.putByte(FINES);
+            FineBlock fines = new FineBlock(out);
+            manager.getFinesDatabase().forEach(fines);
+            fines.flush();
+            out.putInt(0);
+
+            out.putByte(REVENUE);
+            out.putLong(manager.getTotalRevenue());
+            out.putByte(END);
+            out.flush();
+        }
+    }
+
+    private static void writeSpotBlock(Out out, ParkingSpot[] rows, int n)
+        throws IOException {
+        out.putInt(n);
+        for (int i = 0; i < n; i++) out.putString(rows[i].getId());
+        for (int i = 0; i < n; i++) out.putInt(rows[i].getFloorNumber());
+        for (int i = 0; i < n; i++) {
+            out.putByte((byte) rows[i].getType().ordinal());
+        }
+    }
+
+    private static void writeTicketBlock(
+        Out out,
+        Ticket[] rows,
+        VehicleType[] vTypes,
+        int n
+    ) throws IOException {
+        out.putInt(n);
+        for (int i = 0; i < n; i++) out.putString(rows[i].getTicketId());
+        for (int i = 0; i < n; i++) out.putString(rows[i].getPlateNumber());
+        for (int i = 0; i < n; i++) out.putString(rows[i].getSpotId());
+        for (int i = 0; i < n; i++) out.putByte((byte) vTypes[i].ordinal());
+        for (int i = 0; i < n; i++) {
+            out.putLong(rows[i].getEntryTime().toEpochSecond(ZoneOffset.UTC));
+        }
+        for (int i = 0; i < n; i++) {
+            out.putInt((int) rows[i].getRateMultiplierBp());
+        }
+    }
+
+    // Collects fines from FineLedger.forEach into column blocks
+    private static class FineBlock implements FineLedger.Visitor {
+
+        private final Out out;
+        private final String[] plates = new String[BLOCK_ROWS];
+        private final long[] amounts = new long[BLOCK_ROWS];
+        private int n;
+        private IOException failure;
+
+        FineBlock(Out out) {
+            this.out = out;
+        }
+
+        @Override
+        public void visit(String plate, long sen) {
+            if (failure != null) return;
+            plates[n] = plate;
+            amounts[n++] = sen;
+            if (n == BLOCK_ROWS) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        }
+
+        void flush() throws IOException {
+            if (failure != null) throw failure;
+            if (n == 0) return;
+            out.putInt(n);
+            for (int i = 0; i < n; i++) out.putString(plates[i]);
+            for (int i = 0; i < n; i++) out.putLong(amounts[i]);
+            n = 0;
+        }
+    }
+
+    public static ImportSummary importBinary(
+        ParkingLotManager manager,
+        Path file
+    ) throws IOException {
+        ParkingLotManager staged = ParkingLotManager.createEmpty();
+        ImportSummary summary = readBinary(staged, file);
+        manager.replaceStateWith(staged);
+        manager.sweepOverstays(LocalDateTime.now());
+        return summary;
+    }
+
+    private static ImportSummary readBinary(
+        ParkingLotManager manager,
+        Path file
+    ) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            In in = new In(ch);
+            in.need(6);
+            if (in.buf.getInt() != MAGIC) {
+                throw new IOException("Not a parking lot export: " + file);
+            }
+            short version = in.buf.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported export version " + version);
+            }
+            LocalDateTime exportedAt = LocalDateTime.ofEpochSecond(
+                in.getLong(),
+                0,
+                ZoneOffset.UTC
+            );
+
+            ImportSummary summary = new ImportSummary();
+
+            String[] s1 = new String[BLOCK_ROWS];
+            String[] s2 = new String[BLOCK_ROWS];
+            String[] s3 = new String[BLOCK_ROWS];
+            int[] ints = new int[BLOCK_ROWS];
+            byte[] bytes = new byte[BLOCK_ROWS];
+            long[] longs = new long[BLOCK_ROWS];
+
+            while (true) {
+                byte tag = in.getByte();
+                if (tag == END) return summary;
+                if (tag == REVENUE) {
+                    manager.importRevenue(in.getLong());
+                    continue;
+                }
+                int n;
+                while ((n = in.getBlockRows()) > 0) {
+                    switch (tag) {
+                        case SPOTS:
+                            for (int i = 0; i < n; i++) s1[i] = in.getString();
+                            for (int i = 0; i < n; i++) ints[i] = in.getInt();
+                            for (int i = 0; i < n; i++) bytes[i] = in.getByte();
+                            for (int i = 0; i < n; i++) {
+                                manager.importSpot(
+                                    s1[i],
+                                    ints[i],
+                                    SPOT_TYPES[bytes[i]]
+                                );
+                            }
+                            summary.spots += n;
+                            break;
+                        case TICKETS:
+                            for (int i = 0; i < n; i++) s1[i] = in.getString();
+                            for (int i = 0; i < n; i++) s2[i] = in.getString();
+                            for (int i = 0; i < n; i++) s3[i] = in.getString();
+                            for (int i = 0; i < n; i++) bytes[i] = in.getByte();
+                            for (int i = 0; i < n; i++) longs[i] = in.getLong();
+                            for (int i = 0; i < n; i++) ints[i] = in.getInt();
+                            for (int i = 0; i < n; i++) {
+                                boolean ok = manager.importTicket(
+                                    s1[i],
+                                    s2[i],
+                                    VEHICLE_TYPES[bytes[i]],
+                                    s3[i],
+                                    LocalDateTime.ofEpochSecond(
+                                        longs[i],
+                                        0,
+                                        ZoneOffset.UTC
+                                    ),
+                                    ints[i],
+                                    exportedAt
+                                );
+                                if (ok) summary.tickets++;
+                                else summary.skippedTickets++;
+                            }
+                            break;
+                        case FINES:
+                            for (int i = 0; i < n; i++) s1[i] = in.getString();
+                            for (int i = 0; i < n; i++) longs[i] = in.getLong();
+                            for (int i = 0; i < n; i++) {
+                                manager.importFine(s1[i], longs[i]);
+                            }
+                            summary.fines += n;
+                            break;
+                        default:
+                            throw new IOException("Unknown section " + tag);
+                    }
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt export: " + file, e);
+        }
+    }
+
+    private static class Out {
+
+        final FileChannel ch;
+        final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        Out(FileChannel ch) {
+            this.ch = ch;
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buf.remaining() < bytes) flush();
+        }
+
+        void flush() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) ch.write(buf);
+            buf.clear();
+        }
+
+        void putByte(byte b) throws IOException {
+            ensure(1);
+            buf.put(b);
+        }
+
+        void putInt(int v) throws IOException {
+            ensure(4);
+            buf.putInt(v);
+        }
+
+        void putLong(long v) throws IOException {
+            ensure(8);
+            buf.putLong(v);
+        }
+
+        void putString(String s) throws IOException {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            if (b.length > MAX_STRING_BYTES) {
+                throw new IOException("Value too long to export: " + s);
+            }
+            ensure(2 + b.length);
+            buf.putShort((short) b.length);
+            buf.put(b);
+        }
+    }
+
+    private static class In {
+
+        final FileChannel ch;
+        final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        final byte[] scratch = new byte[MAX_STRING_BYTES];
+
+        In(FileChannel ch) {
+            this.ch = ch;
+            buf.flip(); // Start empty
+        }
+
+        void need(int bytes) throws IOException {
+            if (buf.remaining() >= bytes) return;
+            buf.compact();
+            while (buf.position() < bytes) {
+                if (ch.read(buf) < 0) {
+                    throw new IOException("Unexpected end of export");
+                }
+            }
+            buf.flip();
+        }
+
+        byte getByte() throws IOException {
+            need(1);
+            return buf.get();
+        }
+
+        int getInt() throws IOException {
+            need(4);
+            return buf.getInt();
+        }
+
+        long getLong() throws IOException {
+            need(8);
+            return buf.getLong();
+        }
+
+        int getBlockRows() throws IOException {
+            int n = getInt();
+            if (n < 0 || n > BLOCK_ROWS) {
+                throw new IOException("Corrupt block size " + n);
+            }
+            return n;
+        }
+
+        String getString() throws IOException {
+            need(2);
+            int len = buf.getShort() & 0xFFFF;
+            need(len);
+            buf.get(scratch, 0, len);
+            return new String(scratch, 0, len, StandardCharsets.UTF_8);
+        }
+    }
+
+    // ------------------------------------------
+    // CSV
+    // ------------------------------------------
+
+    public static void exportCsv(ParkingLotManager manager, Path file)
+        throws IOException {
+        try (
+            BufferedWriter w = Files.newBufferedWriter(
+                file,
+                StandardCharsets.UTF_8
+            )
+        ) {
+            LocalDateTime exportedAt = sweepForExport(manager);
+            w.write("EXPORTED,");
+            w.write(exportedAt.toString());
+            w.newLine();
+            for (Floor f : manager.getFloors()) {
+                for (ParkingSpot s : f.getSpots()) {
+                    w.write("SPOT,");
+                    writeField(w, s.getId());
+                    w.write(',');
+                    w.write(Integer.toString(s.getFloorNumber()));
+                    w.write(',');
+                    w.write(s.getType().name());
+                    w.newLine();
+                }
+            }
+            for (Ticket t : manager.getActiveTickets()) {
+                Vehicle v = manager.getParkedVehicle(t.getSpotId());
+                w.write("TICKET,");
+                writeField(w, t.getTicketId());
+                w.write(',');
+                writeField(w, t.getPlateNumber());
+                w.write(',');
+                writeField(w, t.getSpotId());
+                w.write(',');
+                w.write((v != null ? v.getType() : VehicleType.CAR).name());
+                w.write(',');
+                w.write(t.getEntryTime().withNano(0).toString());
+                w.write(',');
+                w.write(Long.toString(t.getRateMultiplierBp()));
+                w.newLine();
+            }
+            IOException[] failure = new IOException[1];
+            manager
+                .getFinesDatabase()
+                .forEach((plate, sen) -> {
+                    if (failure[0] != null) return;
+                    try {
+                        w.write("FINE,");
+                        writeField(w, plate);
+                        w.write(',');
+                        w.write(Money.format(sen));
+                        w.newLine();
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+            if (failure[0] != null) throw failure[0];
+            w.write("REVENUE,");
+            w.write(Money.format(manager.getTotalRevenue()));
+            w.newLine();
+        }
+    }
+
+    public static ImportSummary importCsv(ParkingLotManager manager, Path file)
+        throws IOException {
+        ParkingLotManager staged = ParkingLotManager.createEmpty();
+        ImportSummary summary = readCsv(staged, file);
+        manager.replaceStateWith(staged);
+        manager.sweepOverstays(LocalDateTime.now());
+        return summary;
+    }
+
+    private static ImportSummary readCsv(ParkingLotManager manager, Path file)
+        throws IOException {
+        ImportSummary summary = new ImportSummary();
+        List<String> fields = new ArrayList<>();
+        LocalDateTime exportedAt = null;
+        try (
+            BufferedReader r = Files.newBufferedReader(
+                file,
+                StandardCharsets.UTF_8
+            )
+        ) {
+            String line;
+            int lineNo = 0;
+            while ((line = r.readLine()) != null) {
+                lineNo++;
+                if (line.isEmpty()) continue;
+                splitCsv(line, fields);
+                try {
+                    switch (fields.get(0)) {
+                        case "EXPORTED":
+                            exportedAt = LocalDateTime.parse(fields.get(1));
+                            break;
+                        case "SPOT":
+                            manager.importSpot(
+                                fields.get(1),
+                                Integer.parseInt(fields.get(2)),
+                                SpotType.valueOf(fields.get(3))
+                            );
+                            summary.spots++;
+                            break;
+                        case "TICKET":
+                            if (exportedAt == null) {
+                                throw new IOException("TICKET before EXPORTED");
+                            }
+                            boolean ok = manager.importTicket(
+                                fields.get(1),
+                                fields.get(2),
+                                VehicleType.valueOf(fields.get(4)),
+                                fields.get(3),
+                                LocalDateTime.parse(fields.get(5)),
+                                Long.parseLong(fields.get(6)),
+                                exportedAt
+                            );
+                            if (ok) summary.tickets++;
+                            else summary.skippedTickets++;
+                            break;
+                        case "FINE":
+                            manager.importFine(
+                                fields.get(1),
+                                Money.parse(fields.get(2))
+                            );
+                            summary.fines++;
+                            break;
+                        case "REVENUE":
+                            manager.importRevenue(Money.parse(fields.get(1)));
+                            break;
+                        default:
+                            throw new IOException(
+                                "unknown record " + fields.get(0)
+                            );
+                    }
+                } catch (IOException e) {
+                    throw new IOException(
+                        "Line " + lineNo + ": " + e.getMessage(),
+                        e
+                    );
+                } catch (RuntimeException e) {
+                    throw new IOException("Line " + lineNo + ": " + line, e);
+                }
+            }
+        }
+        return summary;
+    }
+
+    // Brings overstay fines up to the export time, in whole seconds as
+    // written, so the file holds every fine for checkpoints before it
+    private static LocalDateTime sweepForExport(ParkingLotManager manager) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        manager.sweepOverstays(now);
+        return now;
+    }
+
+    private static void writeField(BufferedWriter w, String value)
+        throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            w.write(value);
+            return;
+        }
+        w.write('"');
+        w.write(value.replace("\"", "\"\""));
+        w.write('"');
+    }
+
+    private static void splitCsv(String line, List<String> out) {
+        out.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        out.add(field.toString());
+    }
+}
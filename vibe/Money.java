@@ -0,0 +1,77 @@
+package vibe;
+
+// ==========================================
+// MONEY (fixed point)
+// ==========================================
+// All amounts are whole sen held in a primitive long (RM 1.00 = 100 sen),
+// so fees, fines and revenue add up exactly with no rounding drift.
+
+final class Money {
+
+    public static final long SEN_PER_RINGGIT = 100;
+
+    private Money() {}
+
+    public static long ofRinggit(long ringgit) {
+        return ringgit * SEN_PER_RINGGIT;
+    }
+
+    // sen * basisPoints / 10000, rounded half-up (1.0x = 10000 bp)
+    public static long scale(long sen, long basisPoints) {
+        long scaled = sen * basisPoints;
+        return scaled >= 0 ? (scaled + 5000) / 10000 : (scaled - 5000) / 10000;
+    }
+
+    // Appends "12.50" (no currency prefix), same text as %.2f
+    public static StringBuilder appendTo(StringBuilder sb, long sen) {
+        if (sen < 0) {
+            sb.append('-');
+            sen = -sen;
+        }
+        sb.append(sen / SEN_PER_RINGGIT).append('.');
+        long frac = sen % SEN_PER_RINGGIT;
+        if (frac < 10) sb.append('0');
+        return sb.append(frac);
+    }
+
+    public static String format(long sen) {
+        return appendTo(new StringBuilder(12), sen).toString();
+    }
+
+    // Parses "12.5" / "12.50" / "-3" back into sen
+    public static long parse(String text) {
+        String s = text.trim();
+        boolean negative = s.startsWith("-");
+        if (negative) s = s.substring(1);
+        int dot = s.indexOf('.');
+        String whole = dot < 0 ? s : s.substring(0, dot);
+        String frac = dot < 0 ? "" : s.substring(dot + 1);
+        // Plain digits only: Long.parseLong would also take "+3" or the
+        // "-5" in "1.-5"
+        if (
+            !isDigits(whole) ||
+            !isDigits(frac) ||
+            frac.length() > 2 ||
+            (whole.isEmpty() && frac.isEmpty())
+        ) {
+            throw new NumberFormatException("Not an amount: " + text);
+        }
+        long sen = 0;
+        if (!whole.isEmpty()) {
+            sen = Math.multiplyExact(Long.parseLong(whole), SEN_PER_RINGGIT);
+        }
+        if (!frac.isEmpty()) {
+            long cents = Long.parseLong(frac);
+            sen += frac.length() == 1 ? cents * 10 : cents;
+        }
+        return negative ? -sen : sen;
+    }
+
+    private static boolean isDigits(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,9 @@
+package vibe;
+
+// Notified by OverstaySweeper as checkpoints fire.
+interface OverstayListener {
+    void onOverstay(Ticket ticket, long hoursParked);
+
+    // Amounts in sen
+    void onFine(Ticket ticket, long amount, long outstanding);
+}
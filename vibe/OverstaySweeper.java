@@ -0,0 +1,164 @@
+package vibe;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+// ==========================================
+// OVERSTAY SWEEPER
+// ==========================================
+// Keeps active tickets in a min-heap ordered by their next checkpoint
+// (24h after entry, then every hour after that), so enforcement can see
+// overstays as they happen instead of only when the car reaches the exit
+// gate. Checkpoints don't depend on the fine scheme: each one charges
+// whatever the scheme in force at that moment says for that hour, so
+// switching schemes mid-stay takes effect from the next hour.
+// Each checkpoint costs one heap pop + one push: O(log n).
+
+class OverstaySweeper {
+
+    public static final long OVERSTAY_HOURS = 24;
+
+    private static class Deadline {
+
+        final Ticket ticket;
+        final LocalDateTime dueAt;
+        final long hoursParked; // Hours parked once dueAt is reached
+        boolean cancelled;
+
+        Deadline(Ticket ticket, LocalDateTime dueAt, long hoursParked) {
+            this.ticket = ticket;
+            this.dueAt = dueAt;
+            this.hoursParked = hoursParked;
+        }
+    }
+
+    private final PriorityQueue<Deadline> heap = new PriorityQueue<>(
+        Comparator.comparing((Deadline d) -> d.dueAt)
+    );
+    // Live deadline per ticket; exited tickets are cancelled lazily
+    // instead of being removed from the middle of the heap (O(n)).
+    private final Map<Ticket, Deadline> pending = new HashMap<>();
+    private final Set<Ticket> overstaying = new LinkedHashSet<>();
+    private final List<OverstayListener> listeners = new ArrayList<>();
+
+    public void addListener(OverstayListener listener) {
+        listeners.add(listener);
+    }
+
+    public void track(Ticket ticket) {
+        LocalDateTime dueAt = ticket.getEntryTime().plusHours(OVERSTAY_HOURS);
+        schedule(ticket, dueAt, OVERSTAY_HOURS + 1);
+    }
+
+    // For tickets restored from an export: the export swept up to
+    // 'exportedAt', so the fines for every checkpoint passed by then are in
+    // the imported ledger. Tracking resumes from the first checkpoint after
+    // it; the next sweep charges any that passed before the import.
+    public void resume(Ticket ticket, LocalDateTime exportedAt) {
+        LocalDateTime entry = ticket.getEntryTime();
+        // Billed hours so far: smallest h with exportedAt <= entry + h hours
+        long hours = Math.max(ChronoUnit.HOURS.between(entry, exportedAt), 0);
+        if (entry.plusHours(hours).isBefore(exportedAt)) hours++;
+        if (hours <= OVERSTAY_HOURS) {
+            track(ticket);
+            return;
+        }
+        overstaying.add(ticket);
+        schedule(ticket, entry.plusHours(hours), hours + 1);
+    }
+
+    public void untrack(Ticket ticket) {
+        Deadline d = pending.remove(ticket);
+        if (d != null) d.cancelled = true;
+        overstaying.remove(ticket);
+    }
+
+    // Hands the listeners over and tells them about tickets that were
+    // already overstaying there (restored by resume(), which has none)
+    public void moveListenersTo(OverstaySweeper other) {
+        other.listeners.addAll(listeners);
+        listeners.clear();
+        for (Ticket t : other.overstaying) {
+            long hoursParked = other.pending.get(t).hoursParked - 1;
+            for (OverstayListener l : other.listeners) {
+                l.onOverstay(t, hoursParked);
+            }
+        }
+    }
+
+    public boolean isOverstaying(Ticket ticket) {
+        return overstaying.contains(ticket);
+    }
+
+    public List<Ticket> getOverstayingTickets() {
+        return new ArrayList<>(overstaying);
+    }
+
+    // Fires every checkpoint that has passed by 'now' and writes the fines
+    // into the given database under the scheme in force now.
+    public void sweep(
+        LocalDateTime now,
+        FineScheme scheme,
+        FineLedger finesDatabase
+    ) {
+        while (!heap.isEmpty()) {
+            Deadline d = heap.peek();
+            if (d.cancelled) {
+                heap.poll();
+                continue;
+            }
+            if (!now.isAfter(d.dueAt)) break;
+            heap.poll();
+            pending.remove(d.ticket);
+
+            Ticket t = d.ticket;
+            if (overstaying.add(t)) {
+                for (OverstayListener l : listeners) {
+                    l.onOverstay(t, d.hoursParked);
+                }
+            }
+
+            long amount = fineAt(scheme, d.hoursParked);
+            if (amount > 0) {
+                long outstanding = finesDatabase.add(
+                    t.getPlateNumber(),
+                    amount
+                );
+                for (OverstayListener l : listeners) {
+                    l.onFine(t, amount, outstanding);
+                }
+            }
+
+            long next = d.hoursParked + 1;
+            schedule(t, t.getEntryTime().plusHours(next - 1), next);
+        }
+    }
+
+    private void schedule(Ticket ticket, LocalDateTime dueAt, long hours) {
+        Deadline d = new Deadline(ticket, dueAt, hours);
+        pending.put(ticket, d);
+        heap.add(d);
+    }
+
+    // Fine in sen charged when a stay reaches 'hoursParked' (billing rounds
+    // up, so the 25th hour is the first overstayed one).
+    // FIXED: RM 50 once. PROGRESSIVE: RM 50 past 24h, +100 past 48h,
+    // +150 past 72h. HOURLY: RM 20 for every hour past 24h.
+    static long fineAt(FineScheme scheme, long hoursParked) {
+        long over = hoursParked - OVERSTAY_HOURS;
+        switch (scheme) {
+            case FIXED:
+                return over == 1 ? Money.ofRinggit(50) : 0L;
+            case PROGRESSIVE:
+                if (over == 1) return Money.ofRinggit(50);
+                if (over == 25) return Money.ofRinggit(100);
+                if (over == 49) return Money.ofRinggit(150);
+                return 0L;
+            case HOURLY:
+                return over >= 1 ? Money.ofRinggit(20) : 0L;
+            default:
+                return 0L;
+        }
+    }
+}
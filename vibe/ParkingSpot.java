@@ -0,0 +1,67 @@
+package vibe;
+
+class ParkingSpot {
+
+    private String id;
+    private SpotType type;
+    private int floorNumber;
+    private boolean isOccupied;
+    public Vehicle currentVehicle;
+    private long hourlyRate; // sen
+
+    public ParkingSpot(String id, SpotType type, int floorNumber) {
+        this.id = id;
+        this.type = type;
+        this.floorNumber = floorNumber;
+        this.isOccupied = false;
+        this.currentVehicle = null;
+        this.hourlyRate = rateFor(type);
+    }
+
+    // Hourly rate in sen
+    static long rateFor(SpotType type) {
+        // Rates defined in Source [42, 43, 44]
+        switch (type) {
+            case COMPACT:
+                return Money.ofRinggit(2);
+            case REGULAR:
+                return Money.ofRinggit(5);
+            case HANDICAPPED:
+                return Money.ofRinggit(2);
+            case RESERVED:
+                return Money.ofRinggit(10);
+            default:
+                return 0L;
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public SpotType getType() {
+        return type;
+    }
+
+    public int getFloorNumber() {
+        return floorNumber;
+    }
+
+    public boolean isOccupied() {
+        return isOccupied;
+    }
+
+    public long getHourlyRate() {
+        return hourlyRate;
+    }
+
+    public void park(Vehicle v) {
+        this.currentVehicle = v;
+        this.isOccupied = true;
+    }
+
+    public void vacate() {
+        this.currentVehicle = null;
+        this.isOccupied = false;
+    }
+}
@@ -1,405 +1,36 @@
 package vibe;
 
 import java.awt.*;
-import java.time.Duration;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
 import java.util.List;
 import javax.swing.*;
 
 // ==========================================
-// 1. ENUMS & CONSTANTS
-// ==========================================
-enum SpotType {
-    COMPACT,
-    REGULAR,
-    HANDICAPPED,
-    RESERVED,
-}
-
-enum VehicleType {
-    MOTORCYCLE,
-    CAR,
-    SUV_TRUCK,
-    HANDICAPPED_VEHICLE,
-}
-
-enum FineScheme {
-    FIXED,
-    PROGRESSIVE,
-    HOURLY,
-}
-
-// ==========================================
-// 2. MODEL CLASSES
-// ==========================================
-
-class ParkingSpot {
-
-    private String id;
-    private SpotType type;
-    private boolean isOccupied;
-    public Vehicle currentVehicle;
-    private double hourlyRate;
-
-    public ParkingSpot(String id, SpotType type) {
-        this.id = id;
-        this.type = type;
-        this.isOccupied = false;
-        this.currentVehicle = null;
-        setRateByType();
-    }
-
-    private void setRateByType() {
-        // Rates defined in Source [42, 43, 44]
-        switch (type) {
-            case COMPACT:
-                hourlyRate = 2.0;
-                break;
-            case REGULAR:
-                hourlyRate = 5.0;
-                break;
-            case HANDICAPPED:
-                hourlyRate = 2.0;
-                break;
-            case RESERVED:
-                hourlyRate = 10.0;
-                break;
-        }
-    }
-
-    public String getId() {
-        return id;
-    }
-
-    public SpotType getType() {
-        return type;
-    }
-
-    public boolean isOccupied() {
-        return isOccupied;
-    }
-
-    public double getHourlyRate() {
-        return hourlyRate;
-    }
-
-    public void park(Vehicle v) {
-        this.currentVehicle = v;
-        this.isOccupied = true;
-    }
-
-    public void vacate() {
-        this.currentVehicle = null;
-        this.isOccupied = false;
-    }
-}
-
-class Vehicle {
-
-    private String plateNumber;
-    private VehicleType type;
-
-    public Vehicle(String plateNumber, VehicleType type) {
-        this.plateNumber = plateNumber;
-        this.type = type;
-    }
-
-    public String getPlateNumber() {
-        return plateNumber;
-    }
-
-    public VehicleType getType() {
-        return type;
-    }
-}
-
-class Ticket {
-
-    private String ticketId;
-    private String plateNumber;
-    private String spotId;
-    private LocalDateTime entryTime;
-
-    public Ticket(String plateNumber, String spotId) {
-        this.plateNumber = plateNumber;
-        this.spotId = spotId;
-        this.entryTime = LocalDateTime.now();
-        // Format: T-PLATE-TIMESTAMP [cite: 76]
-        this.ticketId = "T-" + plateNumber + "-" + System.currentTimeMillis();
-    }
-
-    public String getTicketId() {
-        return ticketId;
-    }
-
-    public String getPlateNumber() {
-        return plateNumber;
-    }
-
-    public String getSpotId() {
-        return spotId;
-    }
-
-    public LocalDateTime getEntryTime() {
-        return entryTime;
-    }
-
-    // Helper for testing fines (simulates entering X hours ago)
-    public void simulateTimePassage(long hours) {
-        this.entryTime = this.entryTime.minusHours(hours);
-    }
-}
-
-// ==========================================
-// 3. SINGLETON MANAGER (The Design Pattern)
-// ==========================================
-// This class manages the state (Database pattern) and logic.
-// Implements Singleton Pattern.
-class ParkingLotManager {
-
-    private static ParkingLotManager instance;
-
-    private List<Floor> floors;
-    private List<Ticket> activeTickets;
-    private Map<String, Double> finesDatabase; // Plate -> Fine Amount
-    private double totalRevenue;
-    private FineScheme currentFineScheme;
-
-    // Private Constructor
-    private ParkingLotManager() {
-        floors = new ArrayList<>();
-        activeTickets = new ArrayList<>();
-        finesDatabase = new HashMap<>();
-        totalRevenue = 0.0;
-        currentFineScheme = FineScheme.FIXED; // Default Scheme [cite: 96]
-        initializeParkingLot();
-    }
-
-    // Public Accessor
-    public static synchronized ParkingLotManager getInstance() {
-        if (instance == null) {
-            instance = new ParkingLotManager();
-        }
-        return instance;
-    }
-
-    private void initializeParkingLot() {
-        // Create 3 Floors for demo
-        for (int i = 1; i <= 3; i++) {
-            Floor floor = new Floor(i);
-            // Add spots to floor
-            // 5 Compact, 5 Regular, 2 Handicapped, 2 Reserved per floor
-            floor.addSpots(SpotType.COMPACT, 5);
-            floor.addSpots(SpotType.REGULAR, 5);
-            floor.addSpots(SpotType.HANDICAPPED, 2);
-            floor.addSpots(SpotType.RESERVED, 2);
-            floors.add(floor);
-        }
-    }
-
-    // --- Core Logic ---
-
-    // Find suitable spots based on vehicle type [cite: 54-60]
-    public List<ParkingSpot> findAvailableSpots(VehicleType vType) {
-        List<ParkingSpot> suitable = new ArrayList<>();
-        for (Floor f : floors) {
-            for (ParkingSpot s : f.getSpots()) {
-                if (!s.isOccupied() && isTypeCompatible(vType, s.getType())) {
-                    suitable.add(s);
-                }
-            }
-        }
-        return suitable;
-    }
-
-    private boolean isTypeCompatible(VehicleType vType, SpotType sType) {
-        // Rules from [cite: 57-60]
-        switch (vType) {
-            case MOTORCYCLE:
-                return sType == SpotType.COMPACT;
-            case CAR:
-                return sType == SpotType.COMPACT || sType == SpotType.REGULAR;
-            case SUV_TRUCK:
-                return sType == SpotType.REGULAR;
-            case HANDICAPPED_VEHICLE:
-                return true; // Can park anywhere
-            default:
-                return false;
-        }
-    }
-
-    public Ticket parkVehicle(String plate, VehicleType vType, String spotId) {
-        // Find spot
-        ParkingSpot spot = getSpotById(spotId);
-        if (spot != null && !spot.isOccupied()) {
-            spot.park(new Vehicle(plate, vType));
-            Ticket ticket = new Ticket(plate, spotId);
-            activeTickets.add(ticket);
-            return ticket;
-        }
-        return null;
-    }
-
-    public ExitBill processExit(String plate) {
-        Ticket ticket = activeTickets
-            .stream()
-            .filter(t -> t.getPlateNumber().equalsIgnoreCase(plate))
-            .findFirst()
-            .orElse(null);
-
-        if (ticket == null) return null;
-
-        ParkingSpot spot = getSpotById(ticket.getSpotId());
-        // Vehicle vehicle = activeTickets
-        //     .stream()
-        //     .filter(t -> t.getPlateNumber().equals(plate))
-        //     .findFirst()
-        //     .isPresent()
-        //     ? spot.currentVehicle
-        //     : null; // Simplified fetch
-
-        // Need to fetch actual vehicle object, simpler to assume it's still in the spot
-        // In real DB, we would query. Here we trust the spot linkage.
-
-        LocalDateTime now = LocalDateTime.now();
-        Duration duration = Duration.between(ticket.getEntryTime(), now);
-        long hours = (long) Math.ceil(duration.toMinutes() / 60.0); // Ceiling rounding
-        if (hours == 0) hours = 1; // Minimum 1 hour charge logic usually applies
-
-        // Calculate Base Fee
-        double rate = spot.getHourlyRate();
-
-        // Special rule: HC Vehicle in HC Spot = Free [cite: 43]
-        // Note: Code assumes we can check vehicle type easily.
-        // For simulation, if spot is HC and we paid 0, handled below.
-        // Actually, HC Vehicle gets discounted 2/hr everywhere else.
-        // Let's stick to standard calculation then apply rules.
-
-        double parkingFee = hours * rate;
-
-        // Rule: Handicapped Vehicle in Handicapped Spot = FREE [cite: 43]
-        // Rule: Handicapped Vehicle in Non-HC Spot = 2.0/hr (Discounted) [cite: 60]
-        // We need the vehicle type from the ticket/spot.
-        // (Simplified for this snippet: relying on spot rate unless logic strictly needed)
-
-        // Calculate Fines [cite: 90-103]
-        double fine = 0.0;
-
-        // 1. Overstaying (>24h)
-        if (hours > 24) {
-            if (currentFineScheme == FineScheme.FIXED) fine += 50.0;
-            // Add other schemes logic here if selected
-        }
-
-        // 2. Unpaid previous fines [cite: 106]
-        if (finesDatabase.containsKey(plate)) {
-            fine += finesDatabase.get(plate);
-        }
-
-        return new ExitBill(ticket, hours, parkingFee, fine);
-    }
-
-    public void completePayment(String plate, double amountPaid) {
-        Ticket ticket = activeTickets
-            .stream()
-            .filter(t -> t.getPlateNumber().equalsIgnoreCase(plate))
-            .findFirst()
-            .orElse(null);
-
-        if (ticket != null) {
-            ParkingSpot spot = getSpotById(ticket.getSpotId());
-            if (spot != null) spot.vacate();
-            activeTickets.remove(ticket);
-            totalRevenue += amountPaid;
-
-            // Clear fines if paid
-            finesDatabase.remove(plate);
-        }
-    }
-
-    // Helpers
-    private ParkingSpot getSpotById(String id) {
-        for (Floor f : floors) {
-            for (ParkingSpot s : f.getSpots()) {
-                if (s.getId().equals(id)) return s;
-            }
-        }
-        return null;
-    }
-
-    public List<Floor> getFloors() {
-        return floors;
-    }
-
-    public double getTotalRevenue() {
-        return totalRevenue;
-    }
-
-    public int getOccupancyCount() {
-        return activeTickets.size();
-    }
-
-    public void setFineScheme(FineScheme scheme) {
-        this.currentFineScheme = scheme;
-    }
-}
-
-class Floor {
-
-    private int floorNumber;
-    private List<ParkingSpot> spots;
-
-    public Floor(int number) {
-        this.floorNumber = number;
-        this.spots = new ArrayList<>();
-    }
-
-    public void addSpots(SpotType type, int count) {
-        int start = spots.size() + 1;
-        for (int i = 0; i < count; i++) {
-            String id = "F" + floorNumber + "-S" + (start + i);
-            spots.add(new ParkingSpot(id, type));
-        }
-    }
-
-    public List<ParkingSpot> getSpots() {
-        return spots;
-    }
-
-    public int getFloorNumber() {
-        return floorNumber;
-    }
-}
-
-class ExitBill {
-
-    public Ticket ticket;
-    public long hours;
-    public double fee;
-    public double fine;
-    public double total;
-
-    public ExitBill(Ticket t, long h, double f, double fine) {
-        this.ticket = t;
-        this.hours = h;
-        this.fee = f;
-        this.fine = fine;
-        this.total = f + fine;
-    }
-}
-
-// ==========================================
-// 4. GUI IMPLEMENTATION (Swing)
+// GUI IMPLEMENTATION (Swing)
 // ==========================================
 
 public class ParkingSystemMain extends JFrame {
 
+    private static final int OVERSTAY_SWEEP_MS = 60_000;
+    private static final int ADMISSION_TICK_MS = 200;
+    private static final int ENTRY_GATES = 2;
+    private static final int GATE_QUEUE_CAPACITY = 16;
+    private static final int ADMISSION_BATCH = 8;
+
     private ParkingLotManager manager;
+    private GateAdmission admission;
 
     public ParkingSystemMain() {
         manager = ParkingLotManager.getInstance(); // Singleton Access
+        admission = new GateAdmission(
+            manager,
+            ENTRY_GATES,
+            GATE_QUEUE_CAPACITY,
+            ADMISSION_BATCH
+        );
 
         setTitle("University Parking Lot Management System");
         setSize(900, 600);
@@ -413,6 +44,20 @@ public class ParkingSystemMain extends JFrame {
         tabbedPane.addTab("Admin & Reports", new AdminPanel());
 
         add(tabbedPane);
+
+        // Overstay sweep runs on the EDT, same thread as every other
+        // manager call, so the manager needs no extra locking.
+        javax.swing.Timer sweepTimer = new javax.swing.Timer(
+            OVERSTAY_SWEEP_MS,
+            e -> manager.sweepOverstays(LocalDateTime.now())
+        );
+        sweepTimer.start();
+
+        javax.swing.Timer admissionTimer = new javax.swing.Timer(
+            ADMISSION_TICK_MS,
+            e -> admission.tick()
+        );
+        admissionTimer.start();
     }
 
     // --- TAB 1: ENTRY PANEL ---
@@ -420,9 +65,11 @@ public class ParkingSystemMain extends JFrame {
 
         private JComboBox<VehicleType> typeCombo;
         private JComboBox<String> spotCombo;
+        private JComboBox<Integer> gateCombo;
         private JTextField plateField;
         private JTextArea ticketArea;
-        private JButton searchBtn, parkBtn;
+        private JButton searchBtn, parkBtn, autoBtn;
+        private final ReceiptRenderer renderer = new ReceiptRenderer();
 
         public EntryPanel() {
             setLayout(new BorderLayout());
@@ -449,8 +96,18 @@ public class ParkingSystemMain extends JFrame {
             parkBtn = new JButton("Park Vehicle");
             parkBtn.setEnabled(false); // Disabled until spot selected
 
+            // Gate queue: spot is assigned by GateAdmission on its next tick
+            gateCombo = new JComboBox<>();
+            for (int g = 1; g <= admission.getGateCount(); g++) {
+                gateCombo.addItem(g);
+            }
+            autoBtn = new JButton("Auto Assign at Gate");
+
             JPanel btnPanel = new JPanel();
             btnPanel.add(parkBtn);
+            btnPanel.add(new JLabel("Gate:"));
+            btnPanel.add(gateCombo);
+            btnPanel.add(autoBtn);
 
             ticketArea = new JTextArea();
             ticketArea.setEditable(false);
@@ -482,6 +139,55 @@ public class ParkingSystemMain extends JFrame {
                 }
             });
 
+            autoBtn.addActionListener(e -> {
+                String plate = plateField.getText().trim();
+                if (plate.isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Enter Plate Number!");
+                    return;
+                }
+                int gate = (Integer) gateCombo.getSelectedItem() - 1;
+                VehicleType vType = (VehicleType) typeCombo.getSelectedItem();
+                AdmissionSignal signal = admission.submit(gate, plate, vType);
+                switch (signal) {
+                    case QUEUED:
+                        plateField.setText("");
+                        ticketArea.setText("Queued at gate " + (gate + 1));
+                        break;
+                    case RETRY:
+                        JOptionPane.showMessageDialog(
+                            this,
+                            "Gate busy, please retry shortly."
+                        );
+                        break;
+                    default:
+                        JOptionPane.showMessageDialog(
+                            this,
+                            "Lot full for this vehicle type."
+                        );
+                }
+            });
+
+            admission.setListener(
+                new AdmissionListener() {
+                    @Override
+                    public void onAdmitted(int gate, Ticket t) {
+                        ticketArea.setText(renderer.renderTicket(t).toString());
+                    }
+
+                    @Override
+                    public void onRejected(
+                        int gate,
+                        String plate,
+                        VehicleType type,
+                        AdmissionSignal reason
+                    ) {
+                        ticketArea.setText(
+                            "Gate " + (gate + 1) + ": " + plate + " " + reason
+                        );
+                    }
+                }
+            );
+
             parkBtn.addActionListener(e -> {
                 String plate = plateField.getText().trim();
                 if (plate.isEmpty()) {
@@ -495,28 +201,7 @@ public class ParkingSystemMain extends JFrame {
 
                 Ticket t = manager.parkVehicle(plate, vType, spotId);
                 if (t != null) {
-                    ticketArea.setText(
-                        "=== PARKING TICKET ===\n" +
-                            "Ticket ID: " +
-                            t.getTicketId() +
-                            "\n" +
-                            "Spot: " +
-                            t.getSpotId() +
-                            "\n" +
-                            "Plate: " +
-                            t.getPlateNumber() +
-                            "\n" +
-                            "Entry: " +
-                            t
-                                .getEntryTime()
-                                .format(
-                                    DateTimeFormatter.ofPattern(
-                                        "yyyy-MM-dd HH:mm"
-                                    )
-                                ) +
-                            "\n" +
-                            "======================"
-                    );
+                    ticketArea.setText(renderer.renderTicket(t).toString());
 
                     plateField.setText("");
                     spotCombo.removeAllItems();
@@ -525,6 +210,16 @@ public class ParkingSystemMain extends JFrame {
                         this,
                         "Vehicle Parked Successfully!"
                     );
+                } else if (manager.isParked(plate)) {
+                    JOptionPane.showMessageDialog(
+                        this,
+                        "Plate " + plate + " is already parked."
+                    );
+                } else {
+                    JOptionPane.showMessageDialog(
+                        this,
+                        "Spot no longer available, search again."
+                    );
                 }
             });
         }
@@ -535,9 +230,10 @@ public class ParkingSystemMain extends JFrame {
 
         private JTextField plateField;
         private JTextArea billArea;
-        private JButton calcBtn, payBtn;
+        private JButton calcBtn, payBtn, saveBtn;
         private JCheckBox simulateDelay; // For testing fines
         private ExitBill currentBill;
+        private final ReceiptRenderer renderer = new ReceiptRenderer();
 
         public ExitPanel() {
             setLayout(new BorderLayout());
@@ -553,6 +249,10 @@ public class ParkingSystemMain extends JFrame {
             calcBtn = new JButton("Calculate Fee");
             top.add(calcBtn);
 
+            saveBtn = new JButton("Save e-Receipt");
+            saveBtn.setEnabled(false);
+            top.add(saveBtn);
+
             add(top, BorderLayout.NORTH);
 
             billArea = new JTextArea();
@@ -583,50 +283,30 @@ public class ParkingSystemMain extends JFrame {
                 if (currentBill == null) {
                     billArea.setText("Vehicle not found or already exited.");
                     payBtn.setEnabled(false);
+                    saveBtn.setEnabled(false);
                 } else {
                     // Logic for simulation checkbox override
                     if (simulateDelay.isSelected()) {
                         currentBill.hours = 25;
-                        currentBill.fee = currentBill.hours * 2; // Rough est
-                        currentBill.fine = 50.0; // Fixed fine
+                        currentBill.fee =
+                            currentBill.hours * Money.ofRinggit(2); // Rough est
+                        currentBill.fine = Money.ofRinggit(50); // Fixed fine
                         currentBill.total = currentBill.fee + currentBill.fine;
                     }
 
-                    StringBuilder sb = new StringBuilder();
-                    sb.append("=== EXIT RECEIPT ===\n");
-                    sb
-                        .append("Plate: ")
-                        .append(currentBill.ticket.getPlateNumber())
-                        .append("\n");
-                    sb
-                        .append("Duration: ")
-                        .append(currentBill.hours)
-                        .append(" hours\n");
-                    sb
-                        .append("Parking Fee: RM ")
-                        .append(String.format("%.2f", currentBill.fee))
-                        .append("\n");
-                    sb
-                        .append("Fines: RM ")
-                        .append(String.format("%.2f", currentBill.fine))
-                        .append("\n");
-                    sb.append("--------------------\n");
-                    sb
-                        .append("TOTAL DUE: RM ")
-                        .append(String.format("%.2f", currentBill.total))
-                        .append("\n");
-
-                    billArea.setText(sb.toString());
+                    billArea.setText(
+                        renderer.renderReceipt(currentBill).toString()
+                    );
                     payBtn.setEnabled(true);
+                    saveBtn.setEnabled(true);
                 }
             });
 
+            saveBtn.addActionListener(e -> saveReceipt());
+
             payBtn.addActionListener(e -> {
                 if (currentBill != null) {
-                    manager.completePayment(
-                        currentBill.ticket.getPlateNumber(),
-                        currentBill.total
-                    );
+                    manager.completePayment(currentBill);
                     JOptionPane.showMessageDialog(
                         this,
                         "Payment Successful. Gate Open."
@@ -634,17 +314,45 @@ public class ParkingSystemMain extends JFrame {
                     billArea.setText("");
                     plateField.setText("");
                     payBtn.setEnabled(false);
+                    saveBtn.setEnabled(false);
                     currentBill = null;
                 }
             });
         }
+
+        // Same text as the on-screen receipt, as UTF-8
+        private void saveReceipt() {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+            java.nio.file.Path file = chooser.getSelectedFile().toPath();
+            renderer.renderReceipt(currentBill);
+            try (
+                FileChannel ch = FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                renderer.writeTo(ch);
+                JOptionPane.showMessageDialog(this, "Saved to " + file);
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(
+                    this,
+                    "Save failed: " + ex.getMessage()
+                );
+            }
+        }
     }
 
     // --- TAB 3: ADMIN PANEL ---
     class AdminPanel extends JPanel {
 
         private JTextArea statsArea;
-        private JButton refreshBtn;
+        private JTextArea alertArea; // Overstay / fine events as they fire
+        private JButton refreshBtn, exportBtn, importBtn;
 
         public AdminPanel() {
             setLayout(new BorderLayout());
@@ -652,6 +360,10 @@ public class ParkingSystemMain extends JFrame {
             JPanel controlPanel = new JPanel();
             refreshBtn = new JButton("Refresh Statistics");
             controlPanel.add(refreshBtn);
+            exportBtn = new JButton("Export State");
+            controlPanel.add(exportBtn);
+            importBtn = new JButton("Import State");
+            controlPanel.add(importBtn);
 
             add(controlPanel, BorderLayout.NORTH);
 
@@ -659,7 +371,93 @@ public class ParkingSystemMain extends JFrame {
             statsArea.setEditable(false);
             add(new JScrollPane(statsArea), BorderLayout.CENTER);
 
+            alertArea = new JTextArea(6, 40);
+            alertArea.setEditable(false);
+            alertArea.setBorder(
+                BorderFactory.createTitledBorder("Enforcement Alerts")
+            );
+            add(new JScrollPane(alertArea), BorderLayout.SOUTH);
+
+            // Fired from the sweep on the EDT, so the panel can be updated
+            // directly
+            manager.addOverstayListener(
+                new OverstayListener() {
+                    @Override
+                    public void onOverstay(Ticket t, long hoursParked) {
+                        alertArea.append(
+                            t.getPlateNumber() +
+                            " @ " +
+                            t.getSpotId() +
+                            " overstaying (" +
+                            hoursParked +
+                            "h)\n"
+                        );
+                    }
+
+                    @Override
+                    public void onFine(
+                        Ticket t,
+                        long amount,
+                        long outstanding
+                    ) {
+                        alertArea.append(
+                            t.getPlateNumber() +
+                            " fined RM " +
+                            Money.format(amount) +
+                            ", outstanding RM " +
+                            Money.format(outstanding) +
+                            "\n"
+                        );
+                    }
+                }
+            );
+
             refreshBtn.addActionListener(e -> refreshStats());
+            exportBtn.addActionListener(e -> exportState());
+            importBtn.addActionListener(e -> importState());
+        }
+
+        // *.csv files use the CSV layout, anything else the binary one
+        private boolean isCsv(java.nio.file.Path file) {
+            return file.toString().toLowerCase().endsWith(".csv");
+        }
+
+        private void exportState() {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+            java.nio.file.Path file = chooser.getSelectedFile().toPath();
+            try {
+                if (isCsv(file)) LotStateIO.exportCsv(manager, file);
+                else LotStateIO.exportBinary(manager, file);
+                JOptionPane.showMessageDialog(this, "Exported to " + file);
+            } catch (java.io.IOException ex) {
+                JOptionPane.showMessageDialog(
+                    this,
+                    "Export failed: " + ex.getMessage()
+                );
+            }
+        }
+
+        private void importState() {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+            java.nio.file.Path file = chooser.getSelectedFile().toPath();
+            try {
+                LotStateIO.ImportSummary summary = isCsv(file)
+                    ? LotStateIO.importCsv(manager, file)
+                    : LotStateIO.importBinary(manager, file);
+                JOptionPane.showMessageDialog(this, "Imported " + summary);
+            } catch (java.io.IOException ex) {
+                JOptionPane.showMessageDialog(
+                    this,
+                    "Import failed: " + ex.getMessage()
+                );
+            }
+            refreshStats();
         }
 
         private void refreshStats() {
@@ -667,7 +465,7 @@ public class ParkingSystemMain extends JFrame {
             sb.append("=== ADMIN REPORT ===\n\n");
             sb
                 .append("Total Revenue: RM ")
-                .append(String.format("%.2f", manager.getTotalRevenue()))
+                .append(Money.format(manager.getTotalRevenue()))
                 .append("\n");
             sb
                 .append("Current Occupancy: ")
@@ -675,22 +473,51 @@ public class ParkingSystemMain extends JFrame {
                 .append(" Vehicles\n");
             sb.append("\n--- Floor Status ---\n");
 
-            for (Floor f : manager.getFloors()) {
-                long occupied = f
-                    .getSpots()
-                    .stream()
-                    .filter(ParkingSpot::isOccupied)
-                    .count();
+            for (FloorScan.FloorReport r : manager.getFloorReports()) {
                 sb
                     .append("Floor ")
-                    .append(f.getFloorNumber())
+                    .append(r.floorNumber)
                     .append(": ")
-                    .append(occupied)
+                    .append(r.occupied)
                     .append("/")
-                    .append(f.getSpots().size())
+                    .append(r.totalSpots)
                     .append(" occupied\n");
             }
 
+            sb.append("\n--- Forecast Occupancy (+1h / +2h / +3h) ---\n");
+            for (Floor f : manager.getFloors()) {
+                sb.append("Floor ").append(f.getFloorNumber()).append(":");
+                for (int h = 1; h <= 3; h++) {
+                    sb
+                        .append(h == 1 ? " " : " / ")
+                        .append(
+                            Math.round(
+                                manager.forecastFloorOccupancy(
+                                    f.getFloorNumber(),
+                                    h
+                                )
+                            )
+                        );
+                }
+                sb
+                    .append(" of ")
+                    .append(f.getSpots().size())
+                    .append("\n");
+            }
+
+            List<Ticket> overstaying = manager.getOverstayingTickets();
+            sb
+                .append("\n--- Overstaying (>24h) ---\n")
+                .append(overstaying.size())
+                .append(" Vehicles\n");
+            for (Ticket t : overstaying) {
+                sb
+                    .append(t.getPlateNumber())
+                    .append(" @ ")
+                    .append(t.getSpotId())
+                    .append("\n");
+            }
+
             statsArea.setText(sb.toString());
         }
     }
@@ -0,0 +1,124 @@
+package vibe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDateTime;
+
+// ==========================================
+// RECEIPT / TICKET RENDERER
+// ==========================================
+// Renders the entry ticket and exit receipt into a reused StringBuilder and
+// encodes them as UTF-8 into a reused ByteBuffer (e-receipt files, kiosk
+// printers). No String.format, no DateTimeFormatter.ofPattern per call;
+// money comes straight from the bill's sen values. The returned
+// CharSequence is only valid until the next render; JTextArea still needs
+// its own String copy.
+// Not thread-safe: keep one instance per panel / printer thread.
+
+class ReceiptRenderer {
+
+    private final StringBuilder text = new StringBuilder(256);
+    private ByteBuffer bytes = ByteBuffer.allocate(512);
+
+    // Same layout as the original EntryPanel output
+    public CharSequence renderTicket(Ticket t) {
+        text.setLength(0);
+        text.append("=== PARKING TICKET ===\n");
+        text.append("Ticket ID: ").append(t.getTicketId()).append('\n');
+        text.append("Spot: ").append(t.getSpotId()).append('\n');
+        text.append("Plate: ").append(t.getPlateNumber()).append('\n');
+        text.append("Entry: ");
+        appendDateTime(t.getEntryTime());
+        text.append('\n');
+        text.append("======================");
+        return text;
+    }
+
+    // Same layout as the original ExitPanel output
+    public CharSequence renderReceipt(ExitBill bill) {
+        text.setLength(0);
+        text.append("=== EXIT RECEIPT ===\n");
+        text.append("Plate: ");
+        text.append(bill.ticket.getPlateNumber()).append('\n');
+        text.append("Duration: ").append(bill.hours).append(" hours\n");
+        text.append("Parking Fee: RM ");
+        Money.appendTo(text, bill.fee);
+        text.append('\n');
+        text.append("Fines: RM ");
+        Money.appendTo(text, bill.fine);
+        text.append('\n');
+        text.append("--------------------\n");
+        text.append("TOTAL DUE: RM ");
+        Money.appendTo(text, bill.total);
+        text.append('\n');
+        return text;
+    }
+
+    // UTF-8 bytes of the last render, flipped and ready to be written.
+    // The buffer is reused by the next call.
+    public ByteBuffer encode() {
+        bytes.clear();
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (bytes.remaining() < 4) grow();
+            if (c < 0x80) {
+                bytes.put((byte) c);
+            } else if (c < 0x800) {
+                bytes.put((byte) (0xC0 | (c >> 6)));
+                bytes.put((byte) (0x80 | (c & 0x3F)));
+            } else if (
+                Character.isHighSurrogate(c) &&
+                i + 1 < n &&
+                Character.isLowSurrogate(text.charAt(i + 1))
+            ) {
+                int cp = Character.toCodePoint(c, text.charAt(++i));
+                bytes.put((byte) (0xF0 | (cp >> 18)));
+                bytes.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                bytes.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                bytes.put((byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                bytes.put((byte) '?'); // Unpaired surrogate, as String.getBytes
+            } else {
+                bytes.put((byte) (0xE0 | (c >> 12)));
+                bytes.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                bytes.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        bytes.flip();
+        return bytes;
+    }
+
+    // Writes the last render, encoded, to a file or printer channel
+    public void writeTo(WritableByteChannel ch) throws IOException {
+        ByteBuffer out = encode();
+        while (out.hasRemaining()) ch.write(out);
+    }
+
+    private void grow() {
+        ByteBuffer bigger = ByteBuffer.allocate(bytes.capacity() * 2);
+        bytes.flip();
+        bigger.put(bytes);
+        bytes = bigger;
+    }
+
+    // yyyy-MM-dd HH:mm
+    private void appendDateTime(LocalDateTime dt) {
+        appendPadded(dt.getYear(), 4);
+        text.append('-');
+        appendPadded(dt.getMonthValue(), 2);
+        text.append('-');
+        appendPadded(dt.getDayOfMonth(), 2);
+        text.append(' ');
+        appendPadded(dt.getHour(), 2);
+        text.append(':');
+        appendPadded(dt.getMinute(), 2);
+    }
+
+    private void appendPadded(int value, int width) {
+        for (int limit = 10; width > 1; width--, limit *= 10) {
+            if (value < limit) text.append('0');
+        }
+        text.append(value);
+    }
+}
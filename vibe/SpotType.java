@@ -0,0 +1,8 @@
+package vibe;
+
+enum SpotType {
+    COMPACT,
+    REGULAR,
+    HANDICAPPED,
+    RESERVED,
+}
@@ -0,0 +1,63 @@
+package vibe;
+
+import java.time.LocalDateTime;
+
+class Ticket {
+
+    private String ticketId;
+    private String plateNumber;
+    private String spotId;
+    private LocalDateTime entryTime;
+    // Demand multiplier on the hourly rate, fixed when the car enters
+    private long rateMultiplierBp = DemandForecaster.BASE_MULTIPLIER_BP;
+
+    public Ticket(String plateNumber, String spotId) {
+        this.plateNumber = plateNumber;
+        this.spotId = spotId;
+        this.entryTime = LocalDateTime.now();
+        // Format: T-PLATE-TIMESTAMP [cite: 76]
+        this.ticketId = "T-" + plateNumber + "-" + System.currentTimeMillis();
+    }
+
+    // Restores a previously issued ticket (bulk import)
+    public Ticket(
+        String ticketId,
+        String plateNumber,
+        String spotId,
+        LocalDateTime entryTime
+    ) {
+        this.ticketId = ticketId;
+        this.plateNumber = plateNumber;
+        this.spotId = spotId;
+        this.entryTime = entryTime;
+    }
+
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public String getPlateNumber() {
+        return plateNumber;
+    }
+
+    public String getSpotId() {
+        return spotId;
+    }
+
+    public LocalDateTime getEntryTime() {
+        return entryTime;
+    }
+
+    public long getRateMultiplierBp() {
+        return rateMultiplierBp;
+    }
+
+    public void setRateMultiplierBp(long rateMultiplierBp) {
+        this.rateMultiplierBp = rateMultiplierBp;
+    }
+
+    // Helper for testing fines (simulates entering X hours ago)
+    public void simulateTimePassage(long hours) {
+        this.entryTime = this.entryTime.minusHours(hours);
+    }
+}
@@ -0,0 +1,8 @@
+package vibe;
+
+enum VehicleType {
+    MOTORCYCLE,
+    CAR,
+    SUV_TRUCK,
+    HANDICAPPED_VEHICLE,
+}